@@ -11,11 +11,11 @@ public final class DurationUtils {
 	public static long getField(Duration duration, ChronoUnit chronoUnit) {
 		switch (chronoUnit) {
 			case NANOS:
-				return duration.toNanos() % 1000;
+				return duration.getNano() % 1000;
 			case MICROS:
-				return (duration.toNanos() / 1000) % 1000;
+				return (duration.getNano() / 1000) % 1000;
 			case MILLIS:
-				return duration.toMillis() % 1000;
+				return duration.getNano() / 1000000;
 			case SECONDS:
 				return duration.getSeconds() % 60;
 			case MINUTES:
@@ -37,4 +37,33 @@ public final class DurationUtils {
 		return 0L;
 	}
 
+	/**
+	 * Returns the highest value {@link #getField(Duration, ChronoUnit)} can return for a non-negative duration.
+	 */
+	public static long getFieldMaxValue(ChronoUnit chronoUnit) {
+		switch (chronoUnit) {
+			case NANOS:
+			case MICROS:
+			case MILLIS:
+				return 999L;
+			case SECONDS:
+			case MINUTES:
+				return 59L;
+			case HOURS:
+				return 23L;
+			case DAYS:
+				return 364L;
+			case YEARS:
+				return Long.MAX_VALUE / (24L * 60 * 60) / 365;
+			case HALF_DAYS:
+			case WEEKS:
+			case MONTHS:
+			case DECADES:
+			case CENTURIES:
+			case MILLENNIA:
+			case ERAS:
+		}
+		return 0L;
+	}
+
 }
@@ -1,9 +1,11 @@
 package fr.beapp.threeten.format;
 
+import org.threeten.bp.temporal.ChronoUnit;
+
+import java.util.EnumMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.ResourceBundle;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 /**
  * Provides formatter for {@link org.threeten.bp.Duration} classes.
@@ -13,7 +15,20 @@ import java.util.concurrent.ConcurrentMap;
 public class DurationFormat {
 
     private static final String BUNDLE_NAME = "fr.beapp.threeten.format.messages";
-    private static final ConcurrentMap<Locale, DurationFormatter> WORD_FORMATTERS = new ConcurrentHashMap<>();
+    private static final DurationFormatterCache WORD_FORMATTERS = new DurationFormatterCache(BUNDLE_NAME, DurationFormatterCache.DEFAULT_MAX_SIZE);
+    private static final DurationFormatterCache[] SCALED_FORMATTERS = new DurationFormatterCache[DurationFormatterBuilder.ScaledValuePrinter.MAX_FRACTION_DIGITS + 1];
+
+    static {
+        for (int i = 0; i < SCALED_FORMATTERS.length; i++) {
+            final int fractionDigits = i;
+            SCALED_FORMATTERS[i] = new DurationFormatterCache(BUNDLE_NAME, DurationFormatterCache.DEFAULT_MAX_SIZE, new DurationFormatterCache.Factory() {
+                @Override
+                public DurationFormatter create(ResourceBundle bundle, Locale bundleLocale) {
+                    return scaledBased(bundle, bundleLocale, fractionDigits);
+                }
+            });
+        }
+    }
 
     private DurationFormat() {
     }
@@ -41,6 +56,79 @@ public class DurationFormat {
                 .toFormatter();
     }
 
+    /**
+     * Returns a scaled formatter for the specified locale, printing up to 2 fraction digits.
+     *
+     * @return the formatter, not null
+     * @see #scaledBased(Locale, int)
+     */
+    public static DurationFormatter scaledBased(Locale locale) {
+        return scaledBased(locale, 2);
+    }
+
+    /**
+     * Returns a scaled formatter for the specified locale, printing the duration in its most significant unit.
+     * <p>
+     * The unit symbols and the decimal separator are configured in the {@code fr.beapp.threeten.format.messages}
+     * resource bundle.
+     * <p>
+     * Format examples, with 2 fraction digits:
+     * <ul>
+     * <li>English: 450µs, 1.23ms, 2.5s</li>
+     * <li>French: 450 µs, 1,23 ms, 2,5 s</li>
+     * </ul>
+     *
+     * <p>
+     * Formatters are cached, see {@link #scaledBasedCache(int)}. The returned formatter uses the locale of the resolved bundle.
+     *
+     * @param fractionDigits the maximum number of fraction digits to print, from 0 to 6
+     * @return the formatter, not null
+     * @throws IllegalArgumentException if the number of fraction digits is out of range
+     * @see DurationFormatterBuilder#appendScaled(int, String, Map)
+     */
+    public static DurationFormatter scaledBased(Locale locale, int fractionDigits) {
+        return scaledBasedCache(fractionDigits).get(locale);
+    }
+
+    /**
+     * Returns the cache used by {@link #scaledBased(Locale, int)} for the given number of fraction digits,
+     * allowing to configure its size and to monitor it.
+     *
+     * @param fractionDigits the maximum number of fraction digits printed by the cached formatters, from 0 to 6
+     * @return the cache, not null
+     * @throws IllegalArgumentException if the number of fraction digits is out of range
+     */
+    public static DurationFormatterCache scaledBasedCache(int fractionDigits) {
+        if (fractionDigits < 0 || fractionDigits >= SCALED_FORMATTERS.length) {
+            throw new IllegalArgumentException("Fraction digits must be between 0 and " + (SCALED_FORMATTERS.length - 1));
+        }
+        return SCALED_FORMATTERS[fractionDigits];
+    }
+
+    /**
+     * Returns a scaled formatter for the specified locale.
+     * <p>
+     * The unit symbols and the decimal separator are configured in the given resource bundle.
+     *
+     * @param fractionDigits the maximum number of fraction digits to print, from 0 to 6
+     * @return the formatter, not null
+     * @throws IllegalArgumentException if the number of fraction digits is out of range
+     */
+    public static DurationFormatter scaledBased(ResourceBundle b, Locale locale, int fractionDigits) {
+
+        Map<ChronoUnit, String> symbols = new EnumMap<>(ChronoUnit.class);
+        symbols.put(ChronoUnit.NANOS, b.getString("PeriodFormat.nanosecond.symbol"));
+        symbols.put(ChronoUnit.MICROS, b.getString("PeriodFormat.microsecond.symbol"));
+        symbols.put(ChronoUnit.MILLIS, b.getString("PeriodFormat.millisecond.symbol"));
+        symbols.put(ChronoUnit.SECONDS, b.getString("PeriodFormat.second.symbol"));
+        symbols.put(ChronoUnit.MINUTES, b.getString("PeriodFormat.minute.symbol"));
+        symbols.put(ChronoUnit.HOURS, b.getString("PeriodFormat.hour.symbol"));
+
+        return new DurationFormatterBuilder()
+                .appendScaled(fractionDigits, b.getString("PeriodFormat.decimalseparator"), symbols)
+                .toFormatter(locale);
+    }
+
     /**
      * Returns a word based formatter for the specified locale.
      * <p>
@@ -51,31 +139,37 @@ public class DurationFormat {
      * You can add your own translation by creating messages_<locale>.properties file
      * and adding it to the {@code fr.beapp.threeten.format.messages} path.
      * <p>
+     * Languages with more than two plural forms can declare their {@link PluralRules} with the
+     * {@code PluralRules.<category>} keys, and the extra forms with the {@code PeriodFormat.<unit>s.<category>} keys
+     * (for example {@code PeriodFormat.years.few}).
+     * <p>
      * Format examples:
      * <ul>
      * <li>English: 1 year, 2 months, 3 days, 4 hours and 5 minutes</li>
      * <li>French: 1 année, 2 mois, 3 jours, 4 heurs et 5 minutes</li>
      * </ul>
+     * <p>
+     * Formatters are cached, see {@link #wordBasedCache()}. The returned formatter uses the locale of the resolved bundle.
      *
      * @return the formatter, not null
      */
     public static DurationFormatter wordBased(Locale locale) {
-        DurationFormatter pf = WORD_FORMATTERS.get(locale);
-        if (pf == null) {
-            ResourceBundle resourceBundle = ResourceBundle.getBundle(BUNDLE_NAME, locale);
-            pf = wordBased(resourceBundle, locale);
-            DurationFormatter existing = WORD_FORMATTERS.putIfAbsent(locale, pf);
-            if (existing != null) {
-                pf = existing;
-            }
-        }
-        return pf;
+        return WORD_FORMATTERS.get(locale);
+    }
+
+    /**
+     * Returns the cache used by {@link #wordBased(Locale)}, allowing to configure its size and to monitor it.
+     *
+     * @return the cache, not null
+     */
+    public static DurationFormatterCache wordBasedCache() {
+        return WORD_FORMATTERS;
     }
 
     /**
      * Returns a word based formatter for the specified locale.
      * <p>
-     * The words are configured the given resource bundle.
+     * The words and the plural rules are configured the given resource bundle.
      *
      * @return the formatter, not null
      */
@@ -85,31 +179,44 @@ public class DurationFormat {
         String spaceandspace = b.getString("PeriodFormat.spaceandspace");
 
         return new DurationFormatterBuilder()
+                .pluralRules(PluralRules.fromBundle(b))
                 .appendYears()
-                .appendSuffix(b.getString("PeriodFormat.year"), b.getString("PeriodFormat.years"))
+                .appendSuffix(retrieveForms(b, "PeriodFormat.year", "PeriodFormat.years"))
                 .appendSeparator(commaspace, spaceandspace, variants)
                 .appendMonths()
-                .appendSuffix(b.getString("PeriodFormat.month"), b.getString("PeriodFormat.months"))
+                .appendSuffix(retrieveForms(b, "PeriodFormat.month", "PeriodFormat.months"))
                 .appendSeparator(commaspace, spaceandspace, variants)
                 .appendWeeks()
-                .appendSuffix(b.getString("PeriodFormat.week"), b.getString("PeriodFormat.weeks"))
+                .appendSuffix(retrieveForms(b, "PeriodFormat.week", "PeriodFormat.weeks"))
                 .appendSeparator(commaspace, spaceandspace, variants)
                 .appendDays()
-                .appendSuffix(b.getString("PeriodFormat.day"), b.getString("PeriodFormat.days"))
+                .appendSuffix(retrieveForms(b, "PeriodFormat.day", "PeriodFormat.days"))
                 .appendSeparator(commaspace, spaceandspace, variants)
                 .appendHours()
-                .appendSuffix(b.getString("PeriodFormat.hour"), b.getString("PeriodFormat.hours"))
+                .appendSuffix(retrieveForms(b, "PeriodFormat.hour", "PeriodFormat.hours"))
                 .appendSeparator(commaspace, spaceandspace, variants)
                 .appendMinutes()
-                .appendSuffix(b.getString("PeriodFormat.minute"), b.getString("PeriodFormat.minutes"))
+                .appendSuffix(retrieveForms(b, "PeriodFormat.minute", "PeriodFormat.minutes"))
                 .appendSeparator(commaspace, spaceandspace, variants)
                 .appendSeconds()
-                .appendSuffix(b.getString("PeriodFormat.second"), b.getString("PeriodFormat.seconds"))
+                .appendSuffix(retrieveForms(b, "PeriodFormat.second", "PeriodFormat.seconds"))
                 .appendSeparator(commaspace, spaceandspace, variants)
                 .appendMillis()
-                .appendSuffix(b.getString("PeriodFormat.millisecond"), b.getString("PeriodFormat.milliseconds"))
-                .toFormatter()
-                .withLocale(locale);
+                .appendSuffix(retrieveForms(b, "PeriodFormat.millisecond", "PeriodFormat.milliseconds"))
+                .toFormatter(locale);
+    }
+
+    private static Map<PluralCategory, String> retrieveForms(ResourceBundle b, String singularKey, String pluralKey) {
+        Map<PluralCategory, String> forms = new EnumMap<>(PluralCategory.class);
+        forms.put(PluralCategory.ONE, b.getString(singularKey));
+        forms.put(PluralCategory.OTHER, b.getString(pluralKey));
+        for (PluralCategory category : PluralCategory.values()) {
+            String key = pluralKey + "." + category.keyword();
+            if (b.containsKey(key)) {
+                forms.put(category, b.getString(key));
+            }
+        }
+        return forms;
     }
 
     private static String[] retrieveVariants(ResourceBundle b) {
@@ -2,6 +2,7 @@ package fr.beapp.threeten.format;
 
 import org.threeten.bp.Duration;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
@@ -12,8 +13,28 @@ import java.util.Locale;
  */
 public class DurationFormatter {
 
+    /**
+     * Alignment of the formatted text inside a fixed-width slot.
+     *
+     * @see #formatTo(Duration, char[], int, int, Alignment, char)
+     */
+    public enum Alignment {
+        /**
+         * The text is written at the start of the slot, padding is added on the right.
+         */
+        LEFT,
+        /**
+         * The text is written at the end of the slot, padding is added on the left.
+         */
+        RIGHT
+    }
+
     private final List<DurationFormatterBuilder.DurationPrinter> printers;
     private final Locale locale;
+    private final PluralRules pluralRules;
+    private final Locale rulesLocale;
+    private final int maxLength;
+    private final int fixedLength;
 
     /**
      * Creates a new formatter, however you will normally use the factory or the builder.
@@ -22,8 +43,31 @@ public class DurationFormatter {
      * @param locale   the locale to user, not null
      */
     public DurationFormatter(List<DurationFormatterBuilder.DurationPrinter> printers, Locale locale) {
-        this.printers = printers;
+        this(printers, locale, null, locale);
+    }
+
+    /**
+     * Creates a new formatter, binding the suffixes to the given plural rules.
+     *
+     * @param printers    the internal printers, not null
+     * @param locale      the locale to user, not null
+     * @param pluralRules the plural rules to use, null to use the ones of {@code rulesLocale}
+     * @param rulesLocale the locale of the plural rules to use if none are given, not null
+     */
+    DurationFormatter(List<DurationFormatterBuilder.DurationPrinter> printers, Locale locale, PluralRules pluralRules, Locale rulesLocale) {
+        this.printers = DurationFormatterBuilder.bindPluralRules(printers, rulesLocale, pluralRules);
         this.locale = locale;
+        this.pluralRules = pluralRules;
+        this.rulesLocale = rulesLocale;
+
+        int minLength = 0;
+        int maxLength = 0;
+        for (DurationFormatterBuilder.DurationPrinter printer : printers) {
+            minLength += printer.getMinLength();
+            maxLength += printer.getMaxLength();
+        }
+        this.maxLength = maxLength;
+        this.fixedLength = minLength == maxLength ? maxLength : -1;
     }
 
     /**
@@ -32,15 +76,17 @@ public class DurationFormatter {
      * A PeriodFormatter is immutable, so a new instance is returned and the original is unaltered and still usable.
      * <p>
      * A null locale indicates that no specific locale override is in use.
+     * <p>
+     * Unless plural rules were explicitly given to the builder, suffixes use the plural rules of the new locale.
      *
      * @param locale the locale to use, not null
      * @return the new formatter
      */
     public DurationFormatter withLocale(Locale locale) {
-        if (locale.equals(getLocale())) {
+        if (locale.equals(getLocale()) && (pluralRules != null || locale.equals(rulesLocale))) {
             return this;
         }
-        return new DurationFormatter(printers, locale);
+        return new DurationFormatter(printers, locale, pluralRules, locale);
     }
 
     /**
@@ -52,6 +98,28 @@ public class DurationFormatter {
         return locale;
     }
 
+    /**
+     * Gets the maximum number of characters this formatter can print for a non-negative duration.
+     * <p>
+     * Negative durations print a minus sign in front of each printed value, and can exceed this length.
+     *
+     * @return the maximum length of the formatted result
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Gets the number of characters printed for any non-negative duration, if this number never changes.
+     * <p>
+     * For example, {@link DurationFormat#shortBased()} always prints 8 characters.
+     *
+     * @return the length of the formatted result, or -1 if it depends on the formatted duration
+     */
+    public int getFixedLength() {
+        return fixedLength;
+    }
+
     /**
      * Format a {@link Duration} to a new String.
      *
@@ -59,11 +127,96 @@ public class DurationFormatter {
      * @return the formatted result
      */
     public String format(Duration duration) {
-        StringBuilder builder = new StringBuilder();
+        return formatTo(duration, new StringBuilder(maxLength)).toString();
+    }
+
+    /**
+     * Format a {@link Duration} at the end of the given builder.
+     * <p>
+     * Reusing a builder with a capacity of at least {@link #getMaxLength()} avoids allocating the formatted result.
+     *
+     * @param duration the duration to format, not null
+     * @param builder  the builder to append to, not null
+     * @return the given builder
+     */
+    public StringBuilder formatTo(Duration duration, StringBuilder builder) {
         for (DurationFormatterBuilder.DurationPrinter printer : printers) {
             printer.print(printers, duration, locale, builder);
         }
-        return builder.toString();
+        return builder;
+    }
+
+    /**
+     * Format a {@link Duration} into a fixed-width slot of a character buffer, padded with spaces.
+     *
+     * @param duration  the duration to format, not null
+     * @param buffer    the buffer to write to, not null
+     * @param offset    the index of the first character of the slot in the buffer
+     * @param width     the width of the slot
+     * @param alignment the alignment of the formatted text in the slot, not null
+     * @throws IndexOutOfBoundsException if the slot doesn't fit in the buffer
+     * @throws IllegalArgumentException  if the formatted text is longer than the slot
+     * @see #formatTo(Duration, char[], int, int, Alignment, char)
+     */
+    public void formatTo(Duration duration, char[] buffer, int offset, int width, Alignment alignment) {
+        formatTo(duration, buffer, offset, width, alignment, ' ');
+    }
+
+    /**
+     * Format a {@link Duration} into a fixed-width slot of a character buffer.
+     * <p>
+     * The whole slot is written: characters not used by the formatted text are filled with the padding character.
+     * Using {@link #getMaxLength()} as width ensures every non-negative duration fits in the slot.
+     *
+     * @param duration  the duration to format, not null
+     * @param buffer    the buffer to write to, not null
+     * @param offset    the index of the first character of the slot in the buffer
+     * @param width     the width of the slot
+     * @param alignment the alignment of the formatted text in the slot, not null
+     * @param padChar   the character used to fill the unused part of the slot
+     * @throws IndexOutOfBoundsException if the slot doesn't fit in the buffer
+     * @throws IllegalArgumentException  if the formatted text is longer than the slot
+     * @see #formatTo(Duration, char[], int, int, Alignment, char, StringBuilder)
+     */
+    public void formatTo(Duration duration, char[] buffer, int offset, int width, Alignment alignment, char padChar) {
+        formatTo(duration, buffer, offset, width, alignment, padChar, new StringBuilder(maxLength));
+    }
+
+    /**
+     * Format a {@link Duration} into a fixed-width slot of a character buffer, using the given builder as scratch space.
+     * <p>
+     * Reusing the same scratch builder across calls, with a capacity of at least {@link #getMaxLength()},
+     * avoids any intermediate allocation. The content of the scratch builder is replaced.
+     *
+     * @param duration  the duration to format, not null
+     * @param buffer    the buffer to write to, not null
+     * @param offset    the index of the first character of the slot in the buffer
+     * @param width     the width of the slot
+     * @param alignment the alignment of the formatted text in the slot, not null
+     * @param padChar   the character used to fill the unused part of the slot
+     * @param scratch   the builder the duration is formatted to before being copied into the slot, not null
+     * @throws IndexOutOfBoundsException if the slot doesn't fit in the buffer
+     * @throws IllegalArgumentException  if the formatted text is longer than the slot
+     */
+    public void formatTo(Duration duration, char[] buffer, int offset, int width, Alignment alignment, char padChar, StringBuilder scratch) {
+        if (offset < 0 || width < 0 || offset > buffer.length - width) {
+            throw new IndexOutOfBoundsException("Slot [" + offset + ", " + (offset + width) + "[ doesn't fit in a buffer of length " + buffer.length);
+        }
+
+        scratch.setLength(0);
+        StringBuilder builder = formatTo(duration, scratch);
+        int length = builder.length();
+        if (length > width) {
+            throw new IllegalArgumentException("Formatted duration '" + builder + "' is longer than " + width + " characters");
+        }
+
+        int start = alignment == Alignment.LEFT ? offset : offset + width - length;
+        builder.getChars(0, length, buffer, start);
+        if (alignment == Alignment.LEFT) {
+            Arrays.fill(buffer, offset + length, offset + width, padChar);
+        } else {
+            Arrays.fill(buffer, offset, start, padChar);
+        }
     }
 
 }
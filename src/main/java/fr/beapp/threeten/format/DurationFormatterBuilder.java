@@ -4,9 +4,11 @@ import fr.beapp.threeten.DurationUtils;
 import org.threeten.bp.Duration;
 import org.threeten.bp.temporal.ChronoUnit;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * Factory that creates complex instances of {@link DurationFormatter} via method calls.
@@ -16,6 +18,7 @@ import java.util.Locale;
 public class DurationFormatterBuilder {
 
     private List<DurationPrinter> printers = new LinkedList<>();
+    private PluralRules pluralRules;
 
     /**
      * Instruct the formatter to emit an integer years field.
@@ -113,6 +116,62 @@ public class DurationFormatterBuilder {
         return this;
     }
 
+    /**
+     * Instruct the formatter to emit an integer micros field.
+     * <p>
+     * The number of printed digits can be controlled {@link #valueFormat(boolean, String)}.
+     *
+     * @return this DurationFormatterBuilder
+     */
+    public DurationFormatterBuilder appendMicros() {
+        printers.add(new FieldValuePrinter(ChronoUnit.MICROS));
+        return this;
+    }
+
+    /**
+     * Instruct the formatter to emit an integer nanos field.
+     * <p>
+     * The number of printed digits can be controlled {@link #valueFormat(boolean, String)}.
+     *
+     * @return this DurationFormatterBuilder
+     */
+    public DurationFormatterBuilder appendNanos() {
+        printers.add(new FieldValuePrinter(ChronoUnit.NANOS));
+        return this;
+    }
+
+    /**
+     * Instruct the formatter to emit the whole duration in its most significant unit, among nanos, micros, millis,
+     * seconds, minutes and hours, followed by the symbol of this unit.
+     * <p>
+     * For example, with 2 fraction digits: 450µs, 1.23ms or 2.5s.
+     * The value is rounded half-up to the given number of fraction digits, and trailing zeros are not printed.
+     *
+     * @param fractionDigits   the maximum number of fraction digits to print, from 0 to 6
+     * @param decimalSeparator the text printed between the integer and the fraction digits
+     * @param symbols          the symbol of each unit, must contain nanos, micros, millis, seconds, minutes and hours
+     * @return this DurationFormatterBuilder
+     * @throws IllegalArgumentException if the number of fraction digits is out of range or if a symbol is missing
+     */
+    public DurationFormatterBuilder appendScaled(int fractionDigits, String decimalSeparator, Map<ChronoUnit, String> symbols) {
+        if (fractionDigits < 0 || fractionDigits > ScaledValuePrinter.MAX_FRACTION_DIGITS) {
+            throw new IllegalArgumentException("Fraction digits must be between 0 and " + ScaledValuePrinter.MAX_FRACTION_DIGITS);
+        }
+        if (decimalSeparator == null) {
+            throw new IllegalArgumentException("Decimal separator must not be null");
+        }
+
+        String[] symbolArray = new String[ScaledValuePrinter.UNITS.length];
+        for (int i = 0; i < symbolArray.length; i++) {
+            symbolArray[i] = symbols.get(ScaledValuePrinter.UNITS[i]);
+            if (symbolArray[i] == null) {
+                throw new IllegalArgumentException("Symbol of " + ScaledValuePrinter.UNITS[i] + " must not be null");
+            }
+        }
+        printers.add(new ScaledValuePrinter(fractionDigits, decimalSeparator, symbolArray));
+        return this;
+    }
+
     /**
      * Define if the formatter should display 0-value for the previous digits printed.
      * Also define the {@link String#format(String, Object...)} to use for printing the previous digits.
@@ -148,20 +207,58 @@ public class DurationFormatterBuilder {
     /**
      * Append a field suffix which applies only to the last appended field. If the field is not printed, neither is the suffix.
      * <p>
-     * During parsing, the singular and plural versions are accepted whether or not the actual value matches plurality.
+     * The singular version is printed for values in the {@link PluralCategory#ONE} category of the plural rules,
+     * the plural version for any other category.
      *
-     * @param singular text to print if field value is one
-     * @param plural   text to print if field value is not one
+     * @param singular text to print if field value is in the {@link PluralCategory#ONE} category
+     * @param plural   text to print if field value is in any other category
      * @return this DurationFormatterBuilder
      * @throws IllegalStateException if no field exists to append to
+     * @see #pluralRules(PluralRules)
      */
     public DurationFormatterBuilder appendSuffix(String singular, String plural) {
+        String[] forms = new String[PluralCategory.values().length];
+        for (int i = 0; i < forms.length; i++) {
+            forms[i] = plural;
+        }
+        forms[PluralCategory.ONE.ordinal()] = singular;
+        return appendSuffix(forms);
+    }
+
+    /**
+     * Append a field suffix which applies only to the last appended field. If the field is not printed, neither is the suffix.
+     * <p>
+     * The printed form is selected from the plural category of the field value, as given by the plural rules.
+     * Categories without a form fall back to the {@link PluralCategory#OTHER} form.
+     *
+     * @param forms text to print for each plural category, must contain at least the {@link PluralCategory#OTHER} form
+     * @return this DurationFormatterBuilder
+     * @throws IllegalArgumentException if the {@link PluralCategory#OTHER} form is missing
+     * @throws IllegalStateException    if no field exists to append to
+     * @see #pluralRules(PluralRules)
+     */
+    public DurationFormatterBuilder appendSuffix(Map<PluralCategory, String> forms) {
+        String other = forms.get(PluralCategory.OTHER);
+        if (other == null) {
+            throw new IllegalArgumentException("The 'other' suffix form must not be null");
+        }
+
+        PluralCategory[] categories = PluralCategory.values();
+        String[] formArray = new String[categories.length];
+        for (int i = 0; i < categories.length; i++) {
+            String form = forms.get(categories[i]);
+            formArray[i] = form != null ? form : other;
+        }
+        return appendSuffix(formArray);
+    }
+
+    private DurationFormatterBuilder appendSuffix(String[] forms) {
         if (!printers.isEmpty()) {
             int index = printers.size() - 1;
             DurationPrinter lastPrinter = printers.get(index);
 
             if (lastPrinter instanceof ValuePrinter) {
-                printers.set(index, new SuffixPrinter((ValuePrinter) lastPrinter, singular, plural));
+                printers.set(index, new SuffixPrinter((ValuePrinter) lastPrinter, forms, null));
             } else {
                 throw new IllegalStateException("Suffix can only be applied after a FieldValuePrinter");
             }
@@ -169,6 +266,21 @@ public class DurationFormatterBuilder {
         return this;
     }
 
+    /**
+     * Define the plural rules used to select the suffix forms.
+     * <p>
+     * When not defined, the rules declared in the {@code fr.beapp.threeten.format.messages} resource bundle
+     * for the formatter's locale are used.
+     *
+     * @param pluralRules the plural rules to use, null to use the ones of the formatter's locale
+     * @return this DurationFormatterBuilder
+     * @see PluralRules#forLocale(Locale)
+     */
+    public DurationFormatterBuilder pluralRules(PluralRules pluralRules) {
+        this.pluralRules = pluralRules;
+        return this;
+    }
+
     /**
      * Append a separator, which is output if fields are printed both before and after the separator.
      * <p>
@@ -211,12 +323,16 @@ public class DurationFormatterBuilder {
      * Constructs a {@link DurationFormatter} using all the appended elements and the default Locale.
      * <p>
      * This is the main method used by applications at the end of the build process to create a usable formatter.
+     * The maximum and fixed output lengths of the formatter are computed at this time.
+     * <p>
+     * Unless defined with {@link #pluralRules(PluralRules)}, suffixes use the plural rules of the base bundle,
+     * so that the output doesn't depend on the default locale of the JVM.
      *
      * @return the newly created formatter
      * @see #toFormatter(Locale)
      */
     public DurationFormatter toFormatter() {
-        return toFormatter(Locale.getDefault());
+        return new DurationFormatter(printers, Locale.getDefault(), pluralRules, Locale.ROOT);
     }
 
     /**
@@ -228,17 +344,47 @@ public class DurationFormatterBuilder {
      * @return the newly created formatter
      */
     public DurationFormatter toFormatter(Locale locale) {
-        return new DurationFormatter(printers, locale);
+        return new DurationFormatter(printers, locale, pluralRules, locale);
+    }
+
+    /**
+     * Returns a copy of the given printers, with suffixes bound to the given plural rules or, if null, to the ones of the locale.
+     */
+    static List<DurationPrinter> bindPluralRules(List<DurationPrinter> printers, Locale locale, PluralRules pluralRules) {
+        PluralRules rules = pluralRules;
+        List<DurationPrinter> boundPrinters = new ArrayList<>(printers.size());
+        for (DurationPrinter printer : printers) {
+            if (printer instanceof SuffixPrinter) {
+                if (rules == null) {
+                    rules = PluralRules.forLocale(locale);
+                }
+                printer = ((SuffixPrinter) printer).withRules(rules);
+            }
+            boundPrinters.add(printer);
+        }
+        return boundPrinters;
     }
 
     // ==== PRINTERS ====
 
     interface DurationPrinter {
         boolean print(List<DurationPrinter> printers, Duration duration, Locale locale, StringBuilder builder);
+
+        /**
+         * @return the lowest number of characters printed for a non-negative duration
+         */
+        int getMinLength();
+
+        /**
+         * @return the highest number of characters printed for a non-negative duration
+         */
+        int getMaxLength();
     }
 
     interface ValuePrinter extends DurationPrinter {
         long getValue(Duration duration, Locale locale);
+
+        long getMaxValue();
     }
 
     class StringLiteralPrinter implements DurationPrinter {
@@ -253,6 +399,16 @@ public class DurationFormatterBuilder {
             builder.append(literal);
             return true;
         }
+
+        @Override
+        public int getMinLength() {
+            return literal.length();
+        }
+
+        @Override
+        public int getMaxLength() {
+            return literal.length();
+        }
     }
 
     class FieldValuePrinter implements DurationPrinter, ValuePrinter {
@@ -267,6 +423,22 @@ public class DurationFormatterBuilder {
             return DurationUtils.getField(duration, unit);
         }
 
+        @Override
+        public long getMaxValue() {
+            return DurationUtils.getFieldMaxValue(unit);
+        }
+
+        @Override
+        public int getMinLength() {
+            return 0;
+        }
+
+        @Override
+        public int getMaxLength() {
+            long maxValue = getMaxValue();
+            return maxValue > 0 ? String.valueOf(maxValue).length() : 0;
+        }
+
         @Override
         public boolean print(List<DurationPrinter> printers, Duration duration, Locale locale, StringBuilder builder) {
             long value = getValue(duration, locale);
@@ -294,6 +466,11 @@ public class DurationFormatterBuilder {
             return lastPrinter.getValue(duration, locale);
         }
 
+        @Override
+        public long getMaxValue() {
+            return lastPrinter.getMaxValue();
+        }
+
         @Override
         public boolean print(List<DurationPrinter> printers, Duration duration, Locale locale, StringBuilder builder) {
             long value = getValue(duration, locale);
@@ -303,17 +480,33 @@ public class DurationFormatterBuilder {
             }
             return false;
         }
+
+        @Override
+        public int getMinLength() {
+            return allowZero ? String.format(numberFormat, 0L).length() : 0;
+        }
+
+        @Override
+        public int getMaxLength() {
+            long maxValue = getMaxValue();
+            int maxLength = maxValue > 0 ? String.format(numberFormat, maxValue).length() : 0;
+            return Math.max(getMinLength(), maxLength);
+        }
     }
 
     class SuffixPrinter implements DurationPrinter, ValuePrinter {
         private final ValuePrinter lastPrinter;
-        private final String singular;
-        private final String plural;
+        private final String[] forms;
+        private final PluralRules rules;
 
-        SuffixPrinter(ValuePrinter lastPrinter, String singular, String plural) {
+        SuffixPrinter(ValuePrinter lastPrinter, String[] forms, PluralRules rules) {
             this.lastPrinter = lastPrinter;
-            this.singular = singular;
-            this.plural = plural;
+            this.forms = forms;
+            this.rules = rules;
+        }
+
+        SuffixPrinter withRules(PluralRules rules) {
+            return new SuffixPrinter(lastPrinter, forms, rules);
         }
 
         @Override
@@ -321,18 +514,173 @@ public class DurationFormatterBuilder {
             return lastPrinter.getValue(duration, locale);
         }
 
+        @Override
+        public long getMaxValue() {
+            return lastPrinter.getMaxValue();
+        }
+
         @Override
         public boolean print(List<DurationPrinter> printers, Duration duration, Locale locale, StringBuilder builder) {
             if (lastPrinter.print(printers, duration, locale, builder)) {
-                if (lastPrinter.getValue(duration, locale) > 1) {
-                    builder.append(plural);
-                } else {
-                    builder.append(singular);
-                }
+                builder.append(forms[rules.selectIndex(lastPrinter.getValue(duration, locale))]);
                 return true;
             }
             return false;
         }
+
+        @Override
+        public int getMinLength() {
+            int minLength = lastPrinter.getMinLength();
+            if (minLength == 0) {
+                return 0;
+            }
+            int minFormLength = Integer.MAX_VALUE;
+            for (String form : forms) {
+                minFormLength = Math.min(minFormLength, form.length());
+            }
+            return minLength + minFormLength;
+        }
+
+        @Override
+        public int getMaxLength() {
+            int maxLength = lastPrinter.getMaxLength();
+            if (maxLength == 0) {
+                return 0;
+            }
+            int maxFormLength = 0;
+            for (String form : forms) {
+                maxFormLength = Math.max(maxFormLength, form.length());
+            }
+            return maxLength + maxFormLength;
+        }
+    }
+
+    static class ScaledValuePrinter implements DurationPrinter {
+        static final ChronoUnit[] UNITS = {
+                ChronoUnit.NANOS, ChronoUnit.MICROS, ChronoUnit.MILLIS, ChronoUnit.SECONDS, ChronoUnit.MINUTES, ChronoUnit.HOURS
+        };
+        static final int MAX_FRACTION_DIGITS = 6;
+
+        private static final long NANOS_PER_SECOND = 1000000000L;
+        private static final int SECONDS_INDEX = 3;
+        private static final int HOURS_INDEX = 5;
+        private static final long[] UNIT_NANOS = {1L, 1000L, 1000000L, NANOS_PER_SECOND, 60 * NANOS_PER_SECOND, 3600 * NANOS_PER_SECOND};
+        private static final long[] MAX_INTEGERS = {999L, 999L, 999L, 59L, 59L, Long.MAX_VALUE / 3600};
+        private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L};
+
+        private final int fractionDigits;
+        private final String decimalSeparator;
+        private final String[] symbols;
+
+        ScaledValuePrinter(int fractionDigits, String decimalSeparator, String[] symbols) {
+            this.fractionDigits = fractionDigits;
+            this.decimalSeparator = decimalSeparator;
+            this.symbols = symbols;
+        }
+
+        @Override
+        public boolean print(List<DurationPrinter> printers, Duration duration, Locale locale, StringBuilder builder) {
+            long seconds = duration.getSeconds();
+            long nanos = duration.getNano();
+            if (seconds < 0) {
+                builder.append('-');
+                // Long.MIN_VALUE stays negative when nanos is 0, as its absolute value doesn't fit in a long
+                seconds = -seconds;
+                if (nanos > 0) {
+                    seconds--;
+                    nanos = NANOS_PER_SECOND - nanos;
+                }
+            }
+
+            long scale = POWERS_OF_TEN[fractionDigits];
+            for (int unit = resolveUnit(seconds, nanos); ; unit++) {
+                long integer;
+                long remainder;
+                if (unit >= SECONDS_INDEX) {
+                    long unitSeconds = UNIT_NANOS[unit] / NANOS_PER_SECOND;
+                    long secondsRemainder;
+                    if (seconds >= 0) {
+                        integer = seconds / unitSeconds;
+                        secondsRemainder = seconds % unitSeconds;
+                    } else {
+                        // 2^63 seconds, divided as Long.MAX_VALUE + 1
+                        integer = Long.MAX_VALUE / unitSeconds;
+                        secondsRemainder = Long.MAX_VALUE % unitSeconds + 1;
+                        if (secondsRemainder == unitSeconds) {
+                            integer++;
+                            secondsRemainder = 0;
+                        }
+                    }
+                    remainder = secondsRemainder * NANOS_PER_SECOND + nanos;
+                } else {
+                    integer = nanos / UNIT_NANOS[unit];
+                    remainder = nanos % UNIT_NANOS[unit];
+                }
+
+                long fraction = (remainder * scale + UNIT_NANOS[unit] / 2) / UNIT_NANOS[unit];
+                if (fraction == scale) {
+                    integer++;
+                    fraction = 0;
+                }
+
+                // Rounding may reach the next unit, such as 999.996µs printed as 1ms rather than 1000µs
+                if (unit == HOURS_INDEX || integer <= MAX_INTEGERS[unit]) {
+                    appendValue(builder, integer, fraction);
+                    builder.append(symbols[unit]);
+                    return true;
+                }
+            }
+        }
+
+        private static int resolveUnit(long seconds, long nanos) {
+            if (seconds < 0 || seconds >= 3600) {
+                return HOURS_INDEX;
+            } else if (seconds >= 60) {
+                return HOURS_INDEX - 1;
+            } else if (seconds > 0) {
+                return SECONDS_INDEX;
+            }
+            int unit = SECONDS_INDEX - 1;
+            while (unit > 0 && nanos < UNIT_NANOS[unit]) {
+                unit--;
+            }
+            return unit;
+        }
+
+        private void appendValue(StringBuilder builder, long integer, long fraction) {
+            builder.append(integer);
+
+            int digits = fractionDigits;
+            while (digits > 0 && fraction % 10 == 0) {
+                fraction /= 10;
+                digits--;
+            }
+            if (digits > 0) {
+                builder.append(decimalSeparator);
+                for (long power = POWERS_OF_TEN[digits - 1]; power > 0; power /= 10) {
+                    builder.append((char) ('0' + fraction / power % 10));
+                }
+            }
+        }
+
+        @Override
+        public int getMinLength() {
+            int minLength = Integer.MAX_VALUE;
+            for (String symbol : symbols) {
+                minLength = Math.min(minLength, 1 + symbol.length());
+            }
+            return minLength;
+        }
+
+        @Override
+        public int getMaxLength() {
+            int fractionLength = fractionDigits > 0 ? decimalSeparator.length() + fractionDigits : 0;
+            int maxLength = 0;
+            for (int i = 0; i < symbols.length; i++) {
+                maxLength = Math.max(maxLength, String.valueOf(MAX_INTEGERS[i]).length() + fractionLength + symbols[i].length());
+            }
+            return maxLength;
+        }
     }
 
     class SeparatorPrinter implements DurationPrinter {
@@ -374,6 +722,16 @@ public class DurationFormatterBuilder {
             return true;
         }
 
+        @Override
+        public int getMinLength() {
+            return 0;
+        }
+
+        @Override
+        public int getMaxLength() {
+            return Math.max(text.length(), finalText.length());
+        }
+
         private int resolvePrinterIndex(List<DurationPrinter> printers) {
             for (int i = 0; i < printers.size(); i++) {
                 if (printers.get(i).equals(this)) {
@@ -0,0 +1,253 @@
+package fr.beapp.threeten.format;
+
+import java.util.ArrayDeque;
+import java.util.IllformedLocaleException;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of the formatters returned by {@link DurationFormat#wordBased(Locale)} and
+ * {@link DurationFormat#scaledBased(Locale, int)}.
+ * <p>
+ * Formatters are created once per resolved resource bundle, and shared by all the requested locales resolving to this bundle.
+ * Requested locales are remembered up to {@link #getMaxSize()} entries.
+ * Locales without a matching bundle are remembered as well, so that they don't trigger the bundle resolution again.
+ * <p>
+ * Eviction follows a segmented LRU policy: new locales enter a probation segment, and are promoted to a protected
+ * segment, limited to 80% of the cache, once requested again. A stream of distinct locales only evicts other
+ * probationary locales, so the locales actually in use stay cached. Recency is tracked with a reference bit,
+ * in the manner of the CLOCK algorithm, so that lookups of cached locales stay lock-free: the lock is only taken on misses.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class DurationFormatterCache {
+
+    /**
+     * Default maximum number of requested locales remembered by the cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 64;
+
+    private final String bundleName;
+    private final Factory factory;
+    private final ConcurrentMap<Locale, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Locale, DurationFormatter> bundleFormatters = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    // Guarded by lock
+    private final Object lock = new Object();
+    private final Queue<Locale> probation = new ArrayDeque<>();
+    private final Queue<Locale> protectedSegment = new ArrayDeque<>();
+    private int maxSize;
+    private int size;
+
+    DurationFormatterCache(String bundleName, int maxSize) {
+        this(bundleName, maxSize, new Factory() {
+            @Override
+            public DurationFormatter create(ResourceBundle bundle, Locale bundleLocale) {
+                return DurationFormat.wordBased(bundle, bundleLocale);
+            }
+        });
+    }
+
+    DurationFormatterCache(String bundleName, int maxSize, Factory factory) {
+        this.bundleName = bundleName;
+        this.factory = factory;
+        setMaxSize(maxSize);
+    }
+
+    /**
+     * Returns the formatter for the specified locale, creating it if needed.
+     * <p>
+     * The returned formatter uses the locale of the resolved bundle, which may differ from the requested one.
+     *
+     * @param locale the requested locale, not null
+     * @return the formatter, not null
+     */
+    DurationFormatter get(Locale locale) {
+        Locale key = normalize(locale);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            hitCount.incrementAndGet();
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.formatter;
+        }
+
+        missCount.incrementAndGet();
+        DurationFormatter formatter = resolve(key);
+        synchronized (lock) {
+            if (maxSize > 0 && !entries.containsKey(key)) {
+                // The new locale is queued after the eviction, so that it is never evicted by its own insertion
+                entries.put(key, new Entry(formatter));
+                size++;
+                evict();
+                probation.add(key);
+            }
+        }
+        return formatter;
+    }
+
+    private DurationFormatter resolve(Locale locale) {
+        ResourceBundle resourceBundle = ResourceBundle.getBundle(bundleName, locale);
+        Locale bundleLocale = resourceBundle.getLocale();
+
+        DurationFormatter formatter = bundleFormatters.get(bundleLocale);
+        if (formatter == null) {
+            formatter = factory.create(resourceBundle, bundleLocale);
+            DurationFormatter existing = bundleFormatters.putIfAbsent(bundleLocale, formatter);
+            if (existing != null) {
+                formatter = existing;
+            }
+        }
+        return formatter;
+    }
+
+    /**
+     * Must be called while holding the lock.
+     */
+    private void evict() {
+        // At least one probation slot is always left to new locales
+        int maxProtectedSize = maxSize * 4 / 5;
+        while (size > maxSize) {
+            Locale eldest = probation.poll();
+            if (eldest == null) {
+                demote();
+                continue;
+            }
+
+            Entry entry = entries.get(eldest);
+            if (entry.referenced) {
+                entry.referenced = false;
+                protectedSegment.add(eldest);
+                if (protectedSegment.size() > maxProtectedSize) {
+                    demote();
+                }
+            } else {
+                entries.remove(eldest);
+                size--;
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Moves the least recently used protected locale back to the probation segment, giving a second chance
+     * to the locales requested since their promotion.
+     */
+    private void demote() {
+        for (int chances = protectedSegment.size(); ; chances--) {
+            Locale eldest = protectedSegment.poll();
+            Entry entry = entries.get(eldest);
+            if (entry.referenced && chances > 0) {
+                entry.referenced = false;
+                protectedSegment.add(eldest);
+            } else {
+                probation.add(eldest);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Extensions are not used to resolve resource bundles, so they are removed to avoid useless cache entries.
+     */
+    private static Locale normalize(Locale locale) {
+        if (locale.getExtensionKeys().isEmpty()) {
+            return locale;
+        }
+        try {
+            return new Locale.Builder().setLocale(locale).clearExtensions().build();
+        } catch (IllformedLocaleException e) {
+            return new Locale(locale.getLanguage(), locale.getCountry(), locale.getVariant());
+        }
+    }
+
+    /**
+     * Gets the maximum number of requested locales remembered by the cache.
+     *
+     * @return the maximum size
+     */
+    public int getMaxSize() {
+        synchronized (lock) {
+            return maxSize;
+        }
+    }
+
+    /**
+     * Sets the maximum number of requested locales remembered by the cache, evicting the oldest entries if needed.
+     *
+     * @param maxSize the maximum size, zero to disable caching of requested locales
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative");
+        }
+        synchronized (lock) {
+            this.maxSize = maxSize;
+            evict();
+        }
+    }
+
+    /**
+     * Gets the number of requested locales currently remembered by the cache.
+     *
+     * @return the current size
+     */
+    public int size() {
+        synchronized (lock) {
+            return size;
+        }
+    }
+
+    /**
+     * Gets the number of lookups which found a cached formatter.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of lookups which had to resolve the resource bundle.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Gets the number of requested locales evicted from the cache because of the size limit.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * Creates the formatter of a resolved resource bundle.
+     */
+    interface Factory {
+        DurationFormatter create(ResourceBundle bundle, Locale bundleLocale);
+    }
+
+    private static class Entry {
+        private final DurationFormatter formatter;
+        private volatile boolean referenced;
+
+        Entry(DurationFormatter formatter) {
+            this.formatter = formatter;
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package fr.beapp.threeten.format;
+
+import java.util.Locale;
+
+/**
+ * CLDR plural categories used to select the right suffix form for a printed value.
+ * <p>
+ * The ordinal of each category is used as an index in the suffix forms of a formatter.
+ *
+ * @see PluralRules
+ */
+public enum PluralCategory {
+    ZERO,
+    ONE,
+    TWO,
+    FEW,
+    MANY,
+    OTHER;
+
+    /**
+     * Returns the lower-case keyword of this category, as used in CLDR and in the resource bundle keys.
+     *
+     * @return the keyword, not null
+     */
+    public String keyword() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,389 @@
+package fr.beapp.threeten.format;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+/**
+ * Selects the {@link PluralCategory} of an integer value, following CLDR plural rules.
+ * <p>
+ * Rules use the CLDR syntax restricted to integer values, for example {@code n % 10 = 2..4 and n % 100 != 12..14}.
+ * They are compiled once into small evaluators, so selecting a category only costs a few modulos and comparisons.
+ * Values matching none of the rules fall in the {@link PluralCategory#OTHER} category.
+ * <p>
+ * Rules are usually read from the {@code fr.beapp.threeten.format.messages} resource bundle, using the
+ * {@code PluralRules.zero}, {@code PluralRules.one}, {@code PluralRules.two}, {@code PluralRules.few}
+ * and {@code PluralRules.many} keys. An empty value disables the inherited rule of a category.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class PluralRules {
+
+    private static final String BUNDLE_NAME = "fr.beapp.threeten.format.messages";
+    private static final String KEY_PREFIX = "PluralRules.";
+    private static final PluralCategory[] CATEGORIES = PluralCategory.values();
+    private static final ResourceBundle.Control NO_FALLBACK_CONTROL = ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+    /**
+     * Rules for languages without plural inflection, where every value is in the {@link PluralCategory#OTHER} category.
+     */
+    public static final PluralRules NONE = new PluralRules(new int[0], new Condition[0]);
+
+    private final int[] indexes;
+    private final Condition[] conditions;
+
+    private PluralRules(int[] indexes, Condition[] conditions) {
+        this.indexes = indexes;
+        this.conditions = conditions;
+    }
+
+    /**
+     * Returns the plural rules declared in the default resource bundle for the specified locale.
+     * <p>
+     * The bundle doesn't fall back to the default locale of the JVM: locales without rules of their own
+     * use the rules of the base bundle.
+     *
+     * @param locale the locale to use, not null
+     * @return the compiled rules, not null
+     * @throws IllegalArgumentException if a rule of the bundle is malformed
+     */
+    public static PluralRules forLocale(Locale locale) {
+        return fromBundle(ResourceBundle.getBundle(BUNDLE_NAME, locale, NO_FALLBACK_CONTROL));
+    }
+
+    /**
+     * Returns the plural rules declared in the given resource bundle.
+     * <p>
+     * Categories without a {@code PluralRules.<category>} key are left empty.
+     *
+     * @param bundle the resource bundle to read rules from, not null
+     * @return the compiled rules, not null
+     * @throws IllegalArgumentException if a rule of the bundle is malformed
+     */
+    public static PluralRules fromBundle(ResourceBundle bundle) {
+        Map<PluralCategory, String> rules = new EnumMap<>(PluralCategory.class);
+        for (PluralCategory category : CATEGORIES) {
+            String key = KEY_PREFIX + category.keyword();
+            if (category != PluralCategory.OTHER && bundle.containsKey(key)) {
+                rules.put(category, bundle.getString(key));
+            }
+        }
+        return compile(rules);
+    }
+
+    /**
+     * Compiles the given rules, expressed with the CLDR syntax.
+     * <p>
+     * Supported operands are {@code n} and {@code i}, both being the absolute printed value.
+     * Operands related to fraction digits ({@code v}, {@code w}, {@code f}, {@code t}, {@code c} and {@code e})
+     * are always zero. Samples introduced by {@code @integer} or {@code @decimal} are ignored.
+     *
+     * @param rules the rule of each category, not null. Null or blank rules are ignored.
+     * @return the compiled rules, not null
+     * @throws IllegalArgumentException if a rule is malformed or if a rule is given for {@link PluralCategory#OTHER}
+     */
+    public static PluralRules compile(Map<PluralCategory, String> rules) {
+        List<Integer> indexes = new ArrayList<>();
+        List<Condition> conditions = new ArrayList<>();
+        for (PluralCategory category : CATEGORIES) {
+            String rule = rules.get(category);
+            if (rule == null || rule.trim().isEmpty()) {
+                continue;
+            }
+            if (category == PluralCategory.OTHER) {
+                throw new IllegalArgumentException("No rule can be given for the 'other' category");
+            }
+
+            Condition condition = new RuleParser(rule).parse();
+            if (condition != Constant.FALSE) {
+                indexes.add(category.ordinal());
+                conditions.add(condition);
+            }
+        }
+
+        int[] indexArray = new int[indexes.size()];
+        for (int i = 0; i < indexArray.length; i++) {
+            indexArray[i] = indexes.get(i);
+        }
+        return new PluralRules(indexArray, conditions.toArray(new Condition[conditions.size()]));
+    }
+
+    /**
+     * Selects the plural category of the given value.
+     *
+     * @param value the value to select the category for
+     * @return the category, not null
+     */
+    public PluralCategory select(long value) {
+        return CATEGORIES[selectIndex(value)];
+    }
+
+    /**
+     * Selects the plural category of the given value, returning its ordinal.
+     *
+     * @param value the value to select the category for
+     * @return the ordinal of the category
+     */
+    int selectIndex(long value) {
+        // Long.MIN_VALUE stays negative, see Relation
+        long n = value < 0 ? -value : value;
+        for (int i = 0; i < conditions.length; i++) {
+            if (conditions[i].matches(n)) {
+                return indexes[i];
+            }
+        }
+        return PluralCategory.OTHER.ordinal();
+    }
+
+    // ==== EVALUATORS ====
+
+    interface Condition {
+        boolean matches(long n);
+    }
+
+    enum Constant implements Condition {
+        TRUE, FALSE;
+
+        static Constant of(boolean value) {
+            return value ? TRUE : FALSE;
+        }
+
+        @Override
+        public boolean matches(long n) {
+            return this == TRUE;
+        }
+    }
+
+    static class Relation implements Condition {
+        private final long modulus;
+        private final boolean negated;
+        private final long[] ranges;
+
+        Relation(long modulus, boolean negated, long[] ranges) {
+            this.modulus = modulus;
+            this.negated = negated;
+            this.ranges = ranges;
+        }
+
+        /**
+         * @param n the absolute value, only negative for {@link Long#MIN_VALUE} whose absolute value doesn't fit in a long.
+         *          Range bounds being positive longs, such a value never matches them without modulus.
+         */
+        @Override
+        public boolean matches(long n) {
+            long value = n;
+            if (modulus > 0) {
+                value = n >= 0 ? n % modulus : (Long.MAX_VALUE % modulus + 1) % modulus;
+            }
+            for (int i = 0; i < ranges.length; i += 2) {
+                if (value >= ranges[i] && value <= ranges[i + 1]) {
+                    return !negated;
+                }
+            }
+            return negated;
+        }
+    }
+
+    static class And implements Condition {
+        private final Condition[] operands;
+
+        And(Condition[] operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        public boolean matches(long n) {
+            for (Condition operand : operands) {
+                if (!operand.matches(n)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    static class Or implements Condition {
+        private final Condition[] operands;
+
+        Or(Condition[] operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        public boolean matches(long n) {
+            for (Condition operand : operands) {
+                if (operand.matches(n)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // ==== PARSER ====
+
+    static class RuleParser {
+        private final String rule;
+        private int position;
+
+        RuleParser(String rule) {
+            int samples = rule.indexOf('@');
+            this.rule = samples >= 0 ? rule.substring(0, samples) : rule;
+        }
+
+        Condition parse() {
+            Condition condition = parseOr();
+            skipWhitespaces();
+            if (position < rule.length()) {
+                throw error("Unexpected character '" + rule.charAt(position) + "'");
+            }
+            return condition;
+        }
+
+        private Condition parseOr() {
+            List<Condition> operands = new ArrayList<>();
+            do {
+                Condition operand = parseAnd();
+                if (operand == Constant.TRUE) {
+                    return Constant.TRUE;
+                } else if (operand != Constant.FALSE) {
+                    operands.add(operand);
+                }
+            } while (consumeKeyword("or"));
+
+            if (operands.isEmpty()) {
+                return Constant.FALSE;
+            }
+            return operands.size() == 1 ? operands.get(0) : new Or(operands.toArray(new Condition[operands.size()]));
+        }
+
+        private Condition parseAnd() {
+            List<Condition> operands = new ArrayList<>();
+            boolean satisfiable = true;
+            do {
+                Condition operand = parseRelation();
+                if (operand == Constant.FALSE) {
+                    satisfiable = false;
+                } else if (operand != Constant.TRUE) {
+                    operands.add(operand);
+                }
+            } while (consumeKeyword("and"));
+
+            if (!satisfiable) {
+                return Constant.FALSE;
+            } else if (operands.isEmpty()) {
+                return Constant.TRUE;
+            }
+            return operands.size() == 1 ? operands.get(0) : new And(operands.toArray(new Condition[operands.size()]));
+        }
+
+        private Condition parseRelation() {
+            boolean constant = parseOperand();
+
+            long modulus = 0;
+            if (consumeSymbol("%") || consumeKeyword("mod")) {
+                modulus = parseNumber();
+                if (modulus == 0) {
+                    throw error("Modulus must not be zero");
+                }
+            }
+
+            boolean negated;
+            if (consumeSymbol("!=")) {
+                negated = true;
+            } else if (consumeSymbol("=")) {
+                negated = false;
+            } else if (consumeKeyword("is")) {
+                negated = consumeKeyword("not");
+            } else {
+                negated = consumeKeyword("not");
+                if (!consumeKeyword("in") && !consumeKeyword("within")) {
+                    throw error("Expected an operator");
+                }
+            }
+
+            Relation relation = new Relation(modulus, negated, parseRanges());
+            return constant ? Constant.of(relation.matches(0)) : relation;
+        }
+
+        /**
+         * @return true if the operand is always zero for integer values
+         */
+        private boolean parseOperand() {
+            skipWhitespaces();
+            if (position < rule.length()) {
+                char operand = rule.charAt(position++);
+                if (operand == 'n' || operand == 'i') {
+                    return false;
+                } else if ("vwftce".indexOf(operand) >= 0) {
+                    return true;
+                }
+            }
+            throw error("Expected an operand");
+        }
+
+        private long[] parseRanges() {
+            List<Long> bounds = new ArrayList<>();
+            do {
+                long lower = parseNumber();
+                long upper = consumeSymbol("..") ? parseNumber() : lower;
+                if (upper < lower) {
+                    throw error("Invalid range " + lower + ".." + upper);
+                }
+                bounds.add(lower);
+                bounds.add(upper);
+            } while (consumeSymbol(","));
+
+            long[] ranges = new long[bounds.size()];
+            for (int i = 0; i < ranges.length; i++) {
+                ranges[i] = bounds.get(i);
+            }
+            return ranges;
+        }
+
+        private long parseNumber() {
+            skipWhitespaces();
+            int start = position;
+            while (position < rule.length() && Character.isDigit(rule.charAt(position))) {
+                position++;
+            }
+            if (start == position) {
+                throw error("Expected a number");
+            }
+            return Long.parseLong(rule.substring(start, position));
+        }
+
+        private boolean consumeSymbol(String symbol) {
+            skipWhitespaces();
+            if (rule.startsWith(symbol, position)) {
+                position += symbol.length();
+                return true;
+            }
+            return false;
+        }
+
+        private boolean consumeKeyword(String keyword) {
+            skipWhitespaces();
+            int end = position + keyword.length();
+            if (rule.startsWith(keyword, position) && (end == rule.length() || !Character.isLetter(rule.charAt(end)))) {
+                position = end;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespaces() {
+            while (position < rule.length() && Character.isWhitespace(rule.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at index " + position + " of plural rule '" + rule.trim() + "'");
+        }
+    }
+
+}
@@ -67,4 +67,23 @@ public class DurationUtilsTest {
         Assert.assertEquals(1L, DurationUtils.getField(Duration.ofDays(400), ChronoUnit.YEARS));
     }
 
+    @Test
+    public void getField_largeDuration() {
+        Duration duration = Duration.ofDays(365L * 300).plusNanos(123456789);
+        Assert.assertEquals(789L, DurationUtils.getField(duration, ChronoUnit.NANOS));
+        Assert.assertEquals(456L, DurationUtils.getField(duration, ChronoUnit.MICROS));
+        Assert.assertEquals(123L, DurationUtils.getField(duration, ChronoUnit.MILLIS));
+        Assert.assertEquals(300L, DurationUtils.getField(duration, ChronoUnit.YEARS));
+    }
+
+    @Test
+    public void getFieldMaxValue() {
+        Assert.assertEquals(999L, DurationUtils.getFieldMaxValue(ChronoUnit.NANOS));
+        Assert.assertEquals(59L, DurationUtils.getFieldMaxValue(ChronoUnit.SECONDS));
+        Assert.assertEquals(23L, DurationUtils.getFieldMaxValue(ChronoUnit.HOURS));
+        Assert.assertEquals(364L, DurationUtils.getFieldMaxValue(ChronoUnit.DAYS));
+        Assert.assertEquals(292471208677L, DurationUtils.getFieldMaxValue(ChronoUnit.YEARS));
+        Assert.assertEquals(0L, DurationUtils.getFieldMaxValue(ChronoUnit.WEEKS));
+    }
+
 }
\ No newline at end of file
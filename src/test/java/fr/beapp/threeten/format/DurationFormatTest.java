@@ -4,7 +4,9 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.threeten.bp.Duration;
 
+import java.util.EnumMap;
 import java.util.Locale;
+import java.util.Map;
 
 public class DurationFormatTest {
 
@@ -24,6 +26,153 @@ public class DurationFormatTest {
         Assert.assertEquals("00:00:00", formatter.format(Duration.ofDays(1)));
     }
 
+    @Test
+    public void shortBased_lengths() {
+        DurationFormatter formatter = DurationFormat.shortBased();
+
+        Assert.assertEquals(8, formatter.getMaxLength());
+        Assert.assertEquals(8, formatter.getFixedLength());
+    }
+
+    @Test
+    public void wordBased_lengths() {
+        Assert.assertEquals(-1, formatterEN.getFixedLength());
+        Assert.assertEquals(105, formatterEN.getMaxLength());
+    }
+
+    @Test
+    public void formatTo() {
+        DurationFormatter formatter = DurationFormat.shortBased();
+        char[] buffer = "|..........|..........|".toCharArray();
+
+        formatter.formatTo(Duration.ofMinutes(3).plusSeconds(10), buffer, 1, 10, DurationFormatter.Alignment.LEFT);
+        formatter.formatTo(Duration.ofHours(1), buffer, 12, 10, DurationFormatter.Alignment.RIGHT, '*');
+
+        Assert.assertEquals("|00:03:10  |**01:00:00|", new String(buffer));
+    }
+
+    @Test
+    public void formatTo_scratch() {
+        DurationFormatter formatter = DurationFormat.shortBased();
+        StringBuilder scratch = new StringBuilder("previous content");
+        char[] buffer = new char[20];
+
+        formatter.formatTo(Duration.ofSeconds(10), buffer, 0, 10, DurationFormatter.Alignment.RIGHT, ' ', scratch);
+        formatter.formatTo(Duration.ofHours(2), buffer, 10, 10, DurationFormatter.Alignment.LEFT, ' ', scratch);
+
+        Assert.assertEquals("  00:00:1002:00:00  ", new String(buffer));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void formatTo_tooLong() {
+        DurationFormat.shortBased().formatTo(Duration.ofSeconds(1), new char[10], 0, 7, DurationFormatter.Alignment.LEFT);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void formatTo_outOfBuffer() {
+        DurationFormat.shortBased().formatTo(Duration.ofSeconds(1), new char[10], 4, 8, DurationFormatter.Alignment.LEFT);
+    }
+
+    @Test
+    public void scaledBased() {
+        DurationFormatter formatter = DurationFormat.scaledBased(Locale.ENGLISH);
+
+        Assert.assertEquals("0ns", formatter.format(Duration.ZERO));
+        Assert.assertEquals("15ns", formatter.format(Duration.ofNanos(15)));
+        Assert.assertEquals("450\u00b5s", formatter.format(Duration.ofNanos(450000)));
+        Assert.assertEquals("1.23ms", formatter.format(Duration.ofNanos(1234567)));
+        Assert.assertEquals("1.05ms", formatter.format(Duration.ofNanos(1045000)));
+        Assert.assertEquals("2.5s", formatter.format(Duration.ofMillis(2500)));
+        Assert.assertEquals("1min", formatter.format(Duration.ofSeconds(60)));
+        Assert.assertEquals("1.5h", formatter.format(Duration.ofMinutes(90)));
+        Assert.assertEquals("48h", formatter.format(Duration.ofDays(2)));
+        Assert.assertEquals("-2.5s", formatter.format(Duration.ofMillis(-2500)));
+    }
+
+    @Test
+    public void scaledBased_rounding() {
+        Assert.assertEquals("1ms", DurationFormat.scaledBased(Locale.ENGLISH).format(Duration.ofNanos(999996)));
+        Assert.assertEquals("1min", DurationFormat.scaledBased(Locale.ENGLISH).format(Duration.ofMillis(59996)));
+        Assert.assertEquals("2ms", DurationFormat.scaledBased(Locale.ENGLISH, 0).format(Duration.ofNanos(1500000)));
+        Assert.assertEquals("1.234567ms", DurationFormat.scaledBased(Locale.ENGLISH, 6).format(Duration.ofNanos(1234567)));
+    }
+
+    @Test
+    public void scaledBased_extremes() {
+        DurationFormatter formatter = DurationFormat.scaledBased(Locale.ENGLISH);
+
+        Assert.assertEquals("-2562047788015215.5h", formatter.format(Duration.ofSeconds(Long.MIN_VALUE)));
+        Assert.assertEquals("2562047788015215.5h", formatter.format(Duration.ofSeconds(Long.MAX_VALUE)));
+        Assert.assertEquals("-2562047788015215.5h", formatter.format(Duration.ofSeconds(Long.MIN_VALUE + 1)));
+    }
+
+    @Test
+    public void scaledBased_localized() {
+        DurationFormatter formatter = DurationFormat.scaledBased(Locale.FRENCH);
+
+        Assert.assertEquals("450 \u00b5s", formatter.format(Duration.ofNanos(450000)));
+        Assert.assertEquals("1,23 ms", formatter.format(Duration.ofNanos(1234567)));
+        Assert.assertEquals("2,5 s", formatter.format(Duration.ofMillis(2500)));
+    }
+
+    @Test
+    public void scaledBased_lengths() {
+        DurationFormatter formatter = DurationFormat.scaledBased(Locale.ENGLISH);
+
+        Assert.assertEquals(-1, formatter.getFixedLength());
+        Assert.assertEquals(20, formatter.getMaxLength());
+    }
+
+    @Test
+    public void scaledBased_cached() {
+        DurationFormatter formatter = DurationFormat.scaledBased(Locale.FRENCH, 3);
+        long missCount = DurationFormat.scaledBasedCache(3).getMissCount();
+
+        Assert.assertSame(formatter, DurationFormat.scaledBased(Locale.FRENCH, 3));
+        Assert.assertSame(formatter, DurationFormat.scaledBased(Locale.FRANCE, 3));
+        Assert.assertNotSame(formatter, DurationFormat.scaledBased(Locale.FRENCH, 2));
+        Assert.assertEquals(missCount + 1, DurationFormat.scaledBasedCache(3).getMissCount());
+        Assert.assertEquals("1,234 ms", formatter.format(Duration.ofNanos(1234000)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void scaledBased_tooManyFractionDigits() {
+        DurationFormat.scaledBased(Locale.ENGLISH, 7);
+    }
+
+    @Test
+    public void appendNanos() {
+        DurationFormatter formatter = new DurationFormatterBuilder()
+                .appendMillis()
+                .appendSuffix("ms")
+                .appendLiteral(" ")
+                .appendMicros()
+                .valueFormat(true, "%03d")
+                .appendLiteral(" ")
+                .appendNanos()
+                .valueFormat(true, "%03d")
+                .toFormatter();
+
+        Assert.assertEquals("1ms 234 567", formatter.format(Duration.ofNanos(1234567)));
+        Assert.assertEquals(" 000 015", formatter.format(Duration.ofNanos(15)));
+    }
+
+    @Test
+    public void appendNanos_largeDuration() {
+        DurationFormatter formatter = new DurationFormatterBuilder()
+                .appendYears()
+                .appendSuffix("y")
+                .appendLiteral(" ")
+                .appendMicros()
+                .valueFormat(true, "%03d")
+                .appendLiteral(" ")
+                .appendNanos()
+                .valueFormat(true, "%03d")
+                .toFormatter();
+
+        Assert.assertEquals("300y 234 567", formatter.format(Duration.ofDays(365L * 300).plusNanos(1234567)));
+    }
+
     @Test
     public void wordBased_simple() {
         assetWithLocales("1 second", "1 seconde", Duration.ofSeconds(1));
@@ -47,6 +196,93 @@ public class DurationFormatTest {
         Assert.assertEquals(expectedFR, formatterFR.format(duration));
     }
 
+    @Test
+    public void wordBased_pluralRules() {
+        DurationFormatter formatterRU = DurationFormat.wordBased(new Locale("ru"));
+        Assert.assertEquals("1 \u0434\u0435\u043d\u044c", formatterRU.format(Duration.ofDays(1)));
+        Assert.assertEquals("3 \u0434\u043d\u044f", formatterRU.format(Duration.ofDays(3)));
+        Assert.assertEquals("5 \u0434\u043d\u0435\u0439", formatterRU.format(Duration.ofDays(5)));
+        Assert.assertEquals("11 \u0434\u043d\u0435\u0439", formatterRU.format(Duration.ofDays(11)));
+        Assert.assertEquals("21 \u0434\u0435\u043d\u044c", formatterRU.format(Duration.ofDays(21)));
+        Assert.assertEquals("22 \u0434\u043d\u044f", formatterRU.format(Duration.ofDays(22)));
+
+        DurationFormatter formatterCS = DurationFormat.wordBased(new Locale("cs"));
+        Assert.assertEquals("1 minuta", formatterCS.format(Duration.ofMinutes(1)));
+        Assert.assertEquals("4 minuty", formatterCS.format(Duration.ofMinutes(4)));
+        Assert.assertEquals("22 minut", formatterCS.format(Duration.ofMinutes(22)));
+
+        DurationFormatter formatterPL = DurationFormat.wordBased(new Locale("pl"));
+        Assert.assertEquals("1 godzina", formatterPL.format(Duration.ofHours(1)));
+        Assert.assertEquals("3 godziny", formatterPL.format(Duration.ofHours(3)));
+        Assert.assertEquals("12 godzin", formatterPL.format(Duration.ofHours(12)));
+        Assert.assertEquals("22 godziny", formatterPL.format(Duration.ofHours(22)));
+    }
+
+    @Test
+    public void suffix_zero() {
+        DurationFormatterBuilder builder = new DurationFormatterBuilder()
+                .appendSeconds()
+                .valueFormat(true, "%d")
+                .appendSuffix(" s", " ss");
+
+        Assert.assertEquals("0 ss", builder.toFormatter(Locale.ENGLISH).format(Duration.ZERO));
+        Assert.assertEquals("0 s", builder.toFormatter(Locale.FRENCH).format(Duration.ZERO));
+    }
+
+    @Test
+    public void suffix_defaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.JAPAN);
+            DurationFormatter formatter = new DurationFormatterBuilder()
+                    .appendSeconds()
+                    .appendSuffix(" second", " seconds")
+                    .toFormatter();
+
+            Assert.assertEquals("1 second", formatter.format(Duration.ofSeconds(1)));
+            Assert.assertEquals("2 seconds", formatter.format(Duration.ofSeconds(2)));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void suffix_withLocale() {
+        Map<PluralCategory, String> forms = new EnumMap<>(PluralCategory.class);
+        forms.put(PluralCategory.ONE, " one");
+        forms.put(PluralCategory.FEW, " few");
+        forms.put(PluralCategory.OTHER, " other");
+        DurationFormatterBuilder builder = new DurationFormatterBuilder()
+                .appendSeconds()
+                .appendSuffix(forms);
+
+        DurationFormatter formatterRU = builder.toFormatter(Locale.ENGLISH).withLocale(new Locale("ru"));
+        Assert.assertEquals("3 few", formatterRU.format(Duration.ofSeconds(3)));
+        Assert.assertEquals("3 other", formatterRU.withLocale(Locale.ENGLISH).format(Duration.ofSeconds(3)));
+
+        DurationFormatter formatterExplicit = builder.pluralRules(PluralRules.forLocale(Locale.ENGLISH)).toFormatter(Locale.ENGLISH);
+        Assert.assertEquals("3 other", formatterExplicit.withLocale(new Locale("ru")).format(Duration.ofSeconds(3)));
+    }
+
+    @Test
+    public void suffix_withDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.FRANCE);
+            DurationFormatter formatter = new DurationFormatterBuilder()
+                    .appendSeconds()
+                    .valueFormat(true, "%d")
+                    .appendSuffix(" s", " ss")
+                    .toFormatter();
+
+            Assert.assertEquals("0 ss", formatter.format(Duration.ZERO));
+            Assert.assertEquals("0 s", formatter.withLocale(Locale.FRANCE).format(Duration.ZERO));
+            Assert.assertEquals("0 s", formatter.withLocale(Locale.CANADA_FRENCH).format(Duration.ZERO));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void wordBased_composite() {
         Duration duration = Duration.ofDays(1).plusHours(4).plusMinutes(3);
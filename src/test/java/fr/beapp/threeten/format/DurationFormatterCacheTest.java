@@ -0,0 +1,113 @@
+package fr.beapp.threeten.format;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Locale;
+
+public class DurationFormatterCacheTest {
+
+    private static final String BUNDLE_NAME = "fr.beapp.threeten.format.messages";
+
+    @Test
+    public void get_counters() {
+        DurationFormatterCache cache = new DurationFormatterCache(BUNDLE_NAME, 10);
+
+        DurationFormatter formatter = cache.get(Locale.FRENCH);
+        Assert.assertSame(formatter, cache.get(Locale.FRENCH));
+        Assert.assertSame(formatter, cache.get(Locale.FRENCH));
+
+        Assert.assertEquals(2L, cache.getHitCount());
+        Assert.assertEquals(1L, cache.getMissCount());
+        Assert.assertEquals(0L, cache.getEvictionCount());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void get_sharedByBundle() {
+        DurationFormatterCache cache = new DurationFormatterCache(BUNDLE_NAME, 10);
+
+        DurationFormatter formatter = cache.get(Locale.FRANCE);
+        Assert.assertSame(formatter, cache.get(Locale.CANADA_FRENCH));
+        Assert.assertSame(formatter, cache.get(Locale.forLanguageTag("fr-FR-u-ca-gregory")));
+        Assert.assertEquals(Locale.FRENCH, formatter.getLocale());
+        Assert.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void get_unresolvedLocale() {
+        DurationFormatterCache cache = new DurationFormatterCache(BUNDLE_NAME, 10);
+
+        DurationFormatter formatter = cache.get(new Locale("xx", "YY"));
+        Assert.assertSame(formatter, cache.get(new Locale("xx", "YY")));
+        Assert.assertEquals(1L, cache.getHitCount());
+        Assert.assertEquals(1L, cache.getMissCount());
+    }
+
+    @Test
+    public void get_bounded() {
+        DurationFormatterCache cache = new DurationFormatterCache(BUNDLE_NAME, 3);
+
+        for (int i = 0; i < 20; i++) {
+            cache.get(new Locale("fr", "FR", "V" + i));
+        }
+        Assert.assertEquals(3, cache.size());
+        Assert.assertEquals(17L, cache.getEvictionCount());
+
+        cache.setMaxSize(1);
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals(19L, cache.getEvictionCount());
+    }
+
+    @Test
+    public void get_frequentLocaleSurvivesDistinctLocales() {
+        DurationFormatterCache cache = new DurationFormatterCache(BUNDLE_NAME, DurationFormatterCache.DEFAULT_MAX_SIZE);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.get(Locale.ENGLISH);
+        }
+        cache.get(new Locale("xx"));
+        cache.get(new Locale("xx"));
+        for (int i = 0; i < 1000; i++) {
+            cache.get(new Locale("zz", "", "v" + i));
+        }
+
+        long missCount = cache.getMissCount();
+        cache.get(Locale.ENGLISH);
+        cache.get(new Locale("xx"));
+        Assert.assertEquals(missCount, cache.getMissCount());
+        Assert.assertEquals(DurationFormatterCache.DEFAULT_MAX_SIZE, cache.size());
+    }
+
+    @Test
+    public void get_newLocaleWithSmallCache() {
+        for (int maxSize = 1; maxSize <= 2; maxSize++) {
+            DurationFormatterCache cache = new DurationFormatterCache(BUNDLE_NAME, maxSize);
+            for (int i = 0; i < 10; i++) {
+                cache.get(Locale.ENGLISH);
+                cache.get(new Locale("zz", "", "v" + i));
+            }
+
+            cache.get(Locale.FRENCH);
+            long missCount = cache.getMissCount();
+            cache.get(Locale.FRENCH);
+            Assert.assertEquals("maxSize " + maxSize, missCount, cache.getMissCount());
+        }
+    }
+
+    @Test
+    public void get_disabled() {
+        DurationFormatterCache cache = new DurationFormatterCache(BUNDLE_NAME, 0);
+
+        cache.get(Locale.ENGLISH);
+        cache.get(Locale.ENGLISH);
+        Assert.assertEquals(2L, cache.getMissCount());
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setMaxSize_negative() {
+        new DurationFormatterCache(BUNDLE_NAME, -1);
+    }
+
+}
@@ -0,0 +1,128 @@
+package fr.beapp.threeten.format;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+public class PluralRulesTest {
+
+    @Test
+    public void forLocale_english() {
+        PluralRules rules = PluralRules.forLocale(Locale.ENGLISH);
+
+        Assert.assertEquals(PluralCategory.OTHER, rules.select(0));
+        Assert.assertEquals(PluralCategory.ONE, rules.select(1));
+        Assert.assertEquals(PluralCategory.OTHER, rules.select(2));
+        Assert.assertEquals(PluralCategory.OTHER, rules.select(21));
+    }
+
+    @Test
+    public void forLocale_french() {
+        PluralRules rules = PluralRules.forLocale(Locale.FRENCH);
+
+        Assert.assertEquals(PluralCategory.ONE, rules.select(0));
+        Assert.assertEquals(PluralCategory.ONE, rules.select(1));
+        Assert.assertEquals(PluralCategory.OTHER, rules.select(2));
+    }
+
+    @Test
+    public void forLocale_japanese() {
+        PluralRules rules = PluralRules.forLocale(Locale.JAPANESE);
+
+        Assert.assertEquals(PluralCategory.OTHER, rules.select(1));
+        Assert.assertEquals(PluralCategory.OTHER, rules.select(2));
+    }
+
+    @Test
+    public void forLocale_unknown() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.JAPANESE);
+            PluralRules rules = PluralRules.forLocale(Locale.CHINESE);
+
+            Assert.assertEquals(PluralCategory.ONE, rules.select(1));
+            Assert.assertEquals(PluralCategory.OTHER, rules.select(2));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void forLocale_russian() {
+        PluralRules rules = PluralRules.forLocale(new Locale("ru"));
+
+        Assert.assertEquals(PluralCategory.MANY, rules.select(0));
+        Assert.assertEquals(PluralCategory.ONE, rules.select(1));
+        Assert.assertEquals(PluralCategory.FEW, rules.select(2));
+        Assert.assertEquals(PluralCategory.FEW, rules.select(4));
+        Assert.assertEquals(PluralCategory.MANY, rules.select(5));
+        Assert.assertEquals(PluralCategory.MANY, rules.select(11));
+        Assert.assertEquals(PluralCategory.MANY, rules.select(12));
+        Assert.assertEquals(PluralCategory.ONE, rules.select(21));
+        Assert.assertEquals(PluralCategory.FEW, rules.select(102));
+        Assert.assertEquals(PluralCategory.MANY, rules.select(111));
+    }
+
+    @Test
+    public void select_minValue() {
+        // |Long.MIN_VALUE| = 9223372036854775808
+        Map<PluralCategory, String> definitions = new EnumMap<>(PluralCategory.class);
+        definitions.put(PluralCategory.ONE, "n % 10 = 8");
+        definitions.put(PluralCategory.FEW, "n % 1000 = 807");
+        PluralRules rules = PluralRules.compile(definitions);
+
+        Assert.assertEquals(PluralCategory.ONE, rules.select(Long.MIN_VALUE));
+        Assert.assertEquals(PluralCategory.FEW, rules.select(Long.MIN_VALUE + 1));
+        Assert.assertEquals(PluralCategory.OTHER, PluralRules.forLocale(Locale.ENGLISH).select(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void forLocale_polish() {
+        PluralRules rules = PluralRules.forLocale(new Locale("pl"));
+
+        Assert.assertEquals(PluralCategory.ONE, rules.select(1));
+        Assert.assertEquals(PluralCategory.FEW, rules.select(3));
+        Assert.assertEquals(PluralCategory.MANY, rules.select(5));
+        Assert.assertEquals(PluralCategory.MANY, rules.select(13));
+        Assert.assertEquals(PluralCategory.MANY, rules.select(21));
+        Assert.assertEquals(PluralCategory.FEW, rules.select(24));
+    }
+
+    @Test
+    public void forLocale_czech() {
+        PluralRules rules = PluralRules.forLocale(new Locale("cs"));
+
+        Assert.assertEquals(PluralCategory.ONE, rules.select(1));
+        Assert.assertEquals(PluralCategory.FEW, rules.select(4));
+        Assert.assertEquals(PluralCategory.OTHER, rules.select(5));
+        Assert.assertEquals(PluralCategory.OTHER, rules.select(22));
+    }
+
+    @Test
+    public void compile_syntax() {
+        Map<PluralCategory, String> definitions = new EnumMap<>(PluralCategory.class);
+        definitions.put(PluralCategory.ZERO, "n is 0 @integer 0");
+        definitions.put(PluralCategory.TWO, "n mod 10 in 2 and n % 100 not in 12");
+        definitions.put(PluralCategory.MANY, "n=5..9,15 or f != 0");
+        PluralRules rules = PluralRules.compile(definitions);
+
+        Assert.assertEquals(PluralCategory.ZERO, rules.select(0));
+        Assert.assertEquals(PluralCategory.OTHER, rules.select(1));
+        Assert.assertEquals(PluralCategory.TWO, rules.select(2));
+        Assert.assertEquals(PluralCategory.OTHER, rules.select(12));
+        Assert.assertEquals(PluralCategory.TWO, rules.select(-22));
+        Assert.assertEquals(PluralCategory.MANY, rules.select(7));
+        Assert.assertEquals(PluralCategory.MANY, rules.select(15));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compile_malformed() {
+        Map<PluralCategory, String> definitions = new EnumMap<>(PluralCategory.class);
+        definitions.put(PluralCategory.ONE, "n = 1 and");
+        PluralRules.compile(definitions);
+    }
+
+}